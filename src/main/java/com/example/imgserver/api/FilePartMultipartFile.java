@@ -0,0 +1,78 @@
+package com.example.imgserver.api;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 임시 파일로 받은 WebFlux {@link FilePart} 를 {@link MultipartFile} 로 감싼다.
+ * 리액티브 컨트롤러에서도 {@code ImageService.uploadImage} 를 그대로 쓰기 위한 어댑터.
+ */
+class FilePartMultipartFile implements MultipartFile {
+
+	private final FilePart part;
+	private final Path content;
+
+	FilePartMultipartFile(FilePart part, Path content) {
+		this.part = part;
+		this.content = content;
+	}
+
+	@Override
+	public String getName() {
+		return part.name();
+	}
+
+	@Override
+	public String getOriginalFilename() {
+		return part.filename();
+	}
+
+	@Override
+	public String getContentType() {
+		MediaType contentType = part.headers().getContentType();
+		return contentType != null ? contentType.toString() : null;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return getSize() == 0;
+	}
+
+	@Override
+	public long getSize() {
+		try {
+			return Files.size(content);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public byte[] getBytes() throws IOException {
+		return Files.readAllBytes(content);
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		return Files.newInputStream(content);
+	}
+
+	@Override
+	public void transferTo(File dest) throws IOException {
+		transferTo(dest.toPath());
+	}
+
+	@Override
+	public void transferTo(Path dest) throws IOException {
+		Files.copy(content, dest, StandardCopyOption.REPLACE_EXISTING);
+	}
+}
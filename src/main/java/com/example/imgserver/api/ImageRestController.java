@@ -2,6 +2,7 @@ package com.example.imgserver.api;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -11,14 +12,20 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.example.imgserver.domain.dto.ImageUploadResponse;
 import com.example.imgserver.service.ImageService;
+import com.example.imgserver.trace.RequestTraceContext;
+import com.example.imgserver.trace.TraceSpan;
+import com.example.imgserver.trace.TraceStage;
+import com.example.imgserver.warmup.AccessLog;
 
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/images")
 @RequiredArgsConstructor
 public class ImageRestController {
 
 	private final ImageService imageService;
+	private final AccessLog accessLog;
 
 
 	// POST http://{IP}:8080/api/v1/images?project=projectA
@@ -35,10 +42,12 @@ public class ImageRestController {
 		@RequestParam("project") String project,
 		@RequestParam("file") MultipartFile file) {
 
-		log.info("이미지 업로드 요청: project={}, filename={}", project, file.getOriginalFilename());
-		ImageUploadResponse response = imageService.uploadImage(project, file);
-		log.info("이미지 업로드 성공: {}", response.getUrl());
-		return ResponseEntity.ok(response);
+		try (TraceSpan span = RequestTraceContext.span(TraceStage.HANDLER)) {
+			log.info("이미지 업로드 요청: project={}, filename={}", project, file.getOriginalFilename());
+			ImageUploadResponse response = imageService.uploadImage(project, file);
+			log.info("이미지 업로드 성공: {}", response.getUrl());
+			return ResponseEntity.ok(response);
+		}
 	}
 
 	/**
@@ -59,16 +68,19 @@ public class ImageRestController {
 		@PathVariable String filename) {
 
 		String datePath = year + "/" + month + "/" + day;
-		log.info("이미지 미리보기 요청: project={}, datePath={}, filename={}", project, datePath, filename);
-
-		Resource resource = imageService.loadImage(project, datePath, filename);
-		String contentType = imageService.getContentType(resource);
-
-		log.info("이미지 미리보기 성공: {}", filename);
-		return ResponseEntity.ok()
-			.contentType(MediaType.parseMediaType(contentType))
-			.header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
-			.body(resource);
+		try (TraceSpan span = RequestTraceContext.span(TraceStage.HANDLER)) {
+			log.info("이미지 미리보기 요청: project={}, datePath={}, filename={}", project, datePath, filename);
+
+			Resource resource = imageService.loadImage(project, datePath, filename);
+			String contentType = imageService.getContentType(resource);
+			accessLog.record(project, datePath, filename);
+
+			log.info("이미지 미리보기 성공: {}", filename);
+			return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(contentType))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
+				.body(resource);
+		}
 	}
 
 	/**
@@ -89,16 +101,19 @@ public class ImageRestController {
 		@PathVariable String filename) {
 
 		String datePath = year + "/" + month + "/" + day;
-		log.info("이미지 다운로드 요청: project={}, datePath={}, filename={}", project, datePath, filename);
-
-		Resource resource = imageService.loadImage(project, datePath, filename);
-		String contentType = imageService.getContentType(resource);
-
-		log.info("이미지 다운로드 성공: {}", filename);
-		return ResponseEntity.ok()
-			.contentType(MediaType.parseMediaType(contentType))
-			.header("X-Accel-Redirect", datePath)
-			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-			.body(resource);
+		try (TraceSpan span = RequestTraceContext.span(TraceStage.HANDLER)) {
+			log.info("이미지 다운로드 요청: project={}, datePath={}, filename={}", project, datePath, filename);
+
+			Resource resource = imageService.loadImage(project, datePath, filename);
+			String contentType = imageService.getContentType(resource);
+			accessLog.record(project, datePath, filename);
+
+			log.info("이미지 다운로드 성공: {}", filename);
+			return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(contentType))
+				.header("X-Accel-Redirect", datePath)
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+				.body(resource);
+		}
 	}
 }
\ No newline at end of file
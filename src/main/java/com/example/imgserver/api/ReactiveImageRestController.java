@@ -0,0 +1,169 @@
+package com.example.imgserver.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import com.example.imgserver.domain.dto.ImageUploadResponse;
+import com.example.imgserver.service.ImageService;
+import com.example.imgserver.storage.ReactiveStorageAdapter;
+import com.example.imgserver.trace.RequestTrace;
+import com.example.imgserver.trace.RequestTraceContext;
+import com.example.imgserver.trace.TraceSpan;
+import com.example.imgserver.trace.TraceStage;
+import com.example.imgserver.warmup.AccessLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+/**
+ * {@link ImageRestController} 의 WebFlux(Netty) 버전.
+ * <p>
+ * {@code spring.main.web-application-type=reactive} 일 때 활성화된다. 검증·경로 규칙은 동일한
+ * {@link ImageService} 를 사용하고, 블로킹 구간(파일 존재 확인, Content-Type 판별)만 boundedElastic 에서
+ * 수행한 뒤 본문은 {@link ReactiveStorageAdapter} 로 스트리밍한다.
+ * 블로킹 구간은 요청 트레이스를 설정한 채 실행되어 HANDLER 와 저장소 구간이 기록된다.
+ * 느린 클라이언트가 있어도 이벤트 루프 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/images")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveImageRestController {
+
+	private final ImageService imageService;
+	private final ReactiveStorageAdapter storageAdapter;
+	private final AccessLog accessLog;
+
+	// POST http://{IP}:8080/api/v1/images?project=projectA
+	// Body: form-data (Key: file, Value: [이미지파일]) — project 도 form-data 로 보낼 수 있다
+
+	/**
+	 * 이미지 업로드 API
+	 * 파트를 임시 파일로 받은 뒤 기존 업로드 로직에 넘긴다.
+	 * WebFlux 의 {@code @RequestParam} 은 쿼리 파라미터만 바인딩하므로, 서블릿 스택과 같이
+	 * multipart 본문의 {@code project} 필드도 받고 없으면 쿼리 파라미터를 쓴다.
+	 * @param projectParam 프로젝트 식별자 (쿼리 파라미터)
+	 * @param projectPart 프로젝트 식별자 (form-data 필드)
+	 * @param file 업로드할 이미지 파일
+	 * @return 업로드된 이미지 정보 (파일명, URL)
+	 */
+	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public Mono<ResponseEntity<ImageUploadResponse>> upload(
+		@RequestParam(name = "project", required = false) String projectParam,
+		@RequestPart(name = "project", required = false) String projectPart,
+		@RequestPart("file") FilePart file) {
+
+		String project = projectPart != null ? projectPart : projectParam;
+		if (project == null) {
+			return Mono.error(new ServerWebInputException("Required parameter 'project' is not present."));
+		}
+		log.info("이미지 업로드 요청: project={}, filename={}", project, file.filename());
+		return Mono.fromCallable(() -> Files.createTempFile("img-upload-", ".part"))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(temp -> file.transferTo(temp)
+				.then(traced(() -> imageService.uploadImage(project, new FilePartMultipartFile(file, temp))))
+				.doFinally(signal -> deleteQuietly(temp)))
+			.doOnNext(response -> log.info("이미지 업로드 성공: {}", response.getUrl()))
+			.map(ResponseEntity::ok);
+	}
+
+	/**
+	 * 이미지 미리보기 API (브라우저에서 바로 볼 수 있도록)
+	 */
+	@GetMapping("/preview/{project}/{year}/{month}/{day}/{filename:.+}")
+	public Mono<ResponseEntity<Flux<DataBuffer>>> previewImage(
+		@PathVariable String project,
+		@PathVariable String year,
+		@PathVariable String month,
+		@PathVariable String day,
+		@PathVariable String filename,
+		ServerHttpResponse response) {
+
+		String datePath = year + "/" + month + "/" + day;
+		log.info("이미지 미리보기 요청: project={}, datePath={}, filename={}", project, datePath, filename);
+
+		return loadImage(project, datePath, filename)
+			.map(image -> ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(image.contentType()))
+				.contentLength(image.contentLength())
+				.header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
+				.body(storageAdapter.read(image.resource(), response.bufferFactory())));
+	}
+
+	/**
+	 * 이미지 다운로드 API (파일로 다운로드)
+	 */
+	@GetMapping("/download/{project}/{year}/{month}/{day}/{filename:.+}")
+	public Mono<ResponseEntity<Flux<DataBuffer>>> downloadImage(
+		@PathVariable String project,
+		@PathVariable String year,
+		@PathVariable String month,
+		@PathVariable String day,
+		@PathVariable String filename,
+		ServerHttpResponse response) {
+
+		String datePath = year + "/" + month + "/" + day;
+		log.info("이미지 다운로드 요청: project={}, datePath={}, filename={}", project, datePath, filename);
+
+		return loadImage(project, datePath, filename)
+			.map(image -> ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(image.contentType()))
+				.contentLength(image.contentLength())
+				.header("X-Accel-Redirect", datePath)
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+				.body(storageAdapter.read(image.resource(), response.bufferFactory())));
+	}
+
+	private record LoadedImage(Resource resource, String contentType, long contentLength) {
+	}
+
+	private Mono<LoadedImage> loadImage(String project, String datePath, String filename) {
+		return traced(() -> {
+				Resource resource = imageService.loadImage(project, datePath, filename);
+				return new LoadedImage(resource, imageService.getContentType(resource), resource.contentLength());
+			})
+			.doOnNext(image -> {
+				accessLog.record(project, datePath, filename);
+				log.info("이미지 조회 성공: {}", filename);
+			});
+	}
+
+	/**
+	 * 블로킹 작업을 boundedElastic 에서, Reactor Context 의 요청 트레이스를 설정한 채 HANDLER 구간으로 실행한다.
+	 */
+	private <T> Mono<T> traced(Callable<T> action) {
+		return Mono.deferContextual(context -> {
+				RequestTrace trace = context.getOrDefault(RequestTraceContext.REACTOR_KEY, null);
+				return Mono.fromCallable(() -> RequestTraceContext.callWith(trace, () -> {
+					try (TraceSpan span = RequestTraceContext.span(TraceStage.HANDLER)) {
+						return action.call();
+					}
+				}));
+			})
+			.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	private void deleteQuietly(Path temp) {
+		try {
+			Files.deleteIfExists(temp);
+		} catch (IOException e) {
+			log.warn("임시 업로드 파일 삭제 실패: {}", temp);
+		}
+	}
+}
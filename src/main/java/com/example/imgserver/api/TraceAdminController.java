@@ -0,0 +1,80 @@
+package com.example.imgserver.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.example.imgserver.domain.dto.SlowRequestResponse;
+import com.example.imgserver.trace.RequestTrace;
+import com.example.imgserver.trace.SlowRequestRecorder;
+import com.example.imgserver.trace.TraceStage;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 느린 요청 조회용 관리자 API.
+ * 서블릿/리액티브 스택 모두에서 동작한다.
+ * <p>
+ * 응답에 요청 경로(= 이미지 URL)가 그대로 담기므로 기본적으로 비활성화되어 있다.
+ * 외부에 노출되지 않는 환경(내부망, 프록시에서 {@code /admin} 차단 등)에서만 켠다.
+ * <pre>
+ *   image.trace.admin-endpoint.enabled: true
+ * </pre>
+ */
+@RestController
+@ConditionalOnProperty(name = "image.trace.admin-endpoint.enabled", havingValue = "true")
+@RequestMapping("/admin/traces")
+@RequiredArgsConstructor
+public class TraceAdminController {
+
+	private final SlowRequestRecorder slowRequestRecorder;
+
+	// GET http://{IP}:8080/admin/traces/slowest
+
+	/**
+	 * 최근 {@code image.trace.slow-window} 동안 가장 느린 요청 목록 (느린 순)
+	 * @return 요청별 전체/구간 소요 시간
+	 */
+	@GetMapping("/slowest")
+	public ResponseEntity<List<SlowRequestResponse>> slowest() {
+		List<SlowRequestResponse> response = slowRequestRecorder.snapshot().stream()
+			.map(this::toResponse)
+			.toList();
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 보관된 느린 요청 초기화
+	 */
+	@DeleteMapping("/slowest")
+	public ResponseEntity<Void> clear() {
+		slowRequestRecorder.clear();
+		return ResponseEntity.noContent().build();
+	}
+
+	private SlowRequestResponse toResponse(RequestTrace trace) {
+		Map<String, Double> stages = new LinkedHashMap<>();
+		for (TraceStage stage : TraceStage.values()) {
+			long nanos = trace.stageNanos(stage);
+			if (nanos > 0) {
+				stages.put(stage.name(), toMillis(nanos));
+			}
+		}
+		return new SlowRequestResponse(
+			trace.getRequestId(),
+			trace.getMethod(),
+			trace.getPath(),
+			trace.getStatus(),
+			Instant.ofEpochMilli(trace.getStartEpochMillis()),
+			toMillis(trace.getTotalNanos()),
+			stages);
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
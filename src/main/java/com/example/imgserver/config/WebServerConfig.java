@@ -0,0 +1,72 @@
+package com.example.imgserver.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 이미지 트래픽에 맞춘 내장 서버 설정.
+ * <p>
+ * HTTP/2, 압축 대상 타입, keep-alive/연결 수는 Spring Boot 표준 {@code server.*} 속성으로 설정하며,
+ * 기본값은 {@code server-defaults.properties} 에 있다. 이 파일은 우선순위가 가장 낮아
+ * application.yaml 등에서 같은 키를 주면 그대로 덮어쓴다.
+ * <p>
+ * 표준 속성에 없는 HTTP/2 동시 스트림 수만 여기서 설정한다. Tomcat 은 연결당 동시에 처리하는 스트림 수
+ * ({@code maxConcurrentStreamExecution}, 기본 20)를 따로 제한하므로 함께 올린다. 실제 처리 수는
+ * {@code server.tomcat.threads.max} 를 넘을 수 없다. Netty 에는 이 구분이 없어 스트림 수만 적용된다.
+ * <pre>
+ *   image:
+ *     server:
+ *       http2-max-concurrent-streams: 200
+ *       http2-max-concurrent-stream-execution: 200   # Tomcat 전용
+ * </pre>
+ * <p>
+ * {@code spring.main.web-application-type=reactive} 이면 Tomcat 대신 Netty 로 서빙한다.
+ */
+@Slf4j
+@Configuration
+@PropertySource("classpath:server-defaults.properties")
+public class WebServerConfig {
+
+    @Value("${image.server.http2-max-concurrent-streams:200}")
+    private long http2MaxConcurrentStreams;
+
+    @Value("${image.server.http2-max-concurrent-stream-execution:200}")
+    private int http2MaxConcurrentStreamExecution;
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> imageServerCustomizer() {
+        // Boot 가 HTTP/2 업그레이드 프로토콜을 추가한 뒤에 실행되므로 여기서 스트림 설정을 조정할 수 있다.
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (UpgradeProtocol upgradeProtocol : connector.findUpgradeProtocols()) {
+                if (upgradeProtocol instanceof Http2Protocol h2) {
+                    h2.setMaxConcurrentStreams(http2MaxConcurrentStreams);
+                    h2.setMaxConcurrentStreamExecution(http2MaxConcurrentStreamExecution);
+                }
+            }
+        });
+    }
+
+    /**
+     * 클래스패스에 Tomcat 도 있으므로, 리액티브 모드에서 Netty 가 선택되도록 팩토리를 직접 등록한다.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> reactiveImageServerCustomizer() {
+        return factory -> factory.addServerCustomizers(server -> server
+                .http2Settings(settings -> settings.maxConcurrentStreams(http2MaxConcurrentStreams)));
+    }
+}
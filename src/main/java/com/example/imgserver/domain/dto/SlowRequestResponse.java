@@ -0,0 +1,19 @@
+package com.example.imgserver.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class SlowRequestResponse {
+	private String requestId;
+	private String method;
+	private String path;
+	private int status;
+	private Instant startedAt;
+	private double totalMs;
+	private Map<String, Double> stagesMs;  // 구간별 소요 시간 (TraceStage 이름 → ms)
+}
@@ -2,6 +2,7 @@ package com.example.imgserver.exception;
 
 import com.example.imgserver.domain.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 
 @Slf4j
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     /**
@@ -50,6 +52,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * 저장된 이미지의 체크섬 불일치
+     */
+    @ExceptionHandler(ImageCorruptedException.class)
+    public ResponseEntity<ErrorResponse> handleImageCorruptedException(
+            ImageCorruptedException e, HttpServletRequest request) {
+        log.error("이미지 손상 감지: {}", e.getMessage(), e);
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Image Corrupted",
+                e.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
     /**
      * 잘못된 파일 (빈 파일, 잘못된 형식 등)
      */
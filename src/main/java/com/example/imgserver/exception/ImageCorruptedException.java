@@ -0,0 +1,11 @@
+package com.example.imgserver.exception;
+
+public class ImageCorruptedException extends RuntimeException {
+    public ImageCorruptedException(String message) {
+        super(message);
+    }
+
+    public ImageCorruptedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
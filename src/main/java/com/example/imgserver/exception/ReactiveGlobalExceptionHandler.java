@@ -0,0 +1,97 @@
+package com.example.imgserver.exception;
+
+import com.example.imgserver.domain.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * {@link GlobalExceptionHandler} 의 WebFlux 버전.
+ * 응답 형식과 상태 코드는 동일하다.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGlobalExceptionHandler {
+
+    @ExceptionHandler(ImageUploadException.class)
+    public ResponseEntity<ErrorResponse> handleImageUploadException(
+            ImageUploadException e, ServerHttpRequest request) {
+        log.error("이미지 업로드 실패: {}", e.getMessage(), e);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Image Upload Failed", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(ImageNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImageNotFoundException(
+            ImageNotFoundException e, ServerHttpRequest request) {
+        log.error("이미지를 찾을 수 없음: {}", e.getMessage());
+        return error(HttpStatus.NOT_FOUND, "Image Not Found", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(ImageCorruptedException.class)
+    public ResponseEntity<ErrorResponse> handleImageCorruptedException(
+            ImageCorruptedException e, ServerHttpRequest request) {
+        log.error("이미지 손상 감지: {}", e.getMessage(), e);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Image Corrupted", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidFileException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFileException(
+            InvalidFileException e, ServerHttpRequest request) {
+        log.error("잘못된 파일: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Invalid File", e.getMessage(), request);
+    }
+
+    /**
+     * 파일 크기 초과 (spring.webflux.multipart.max-disk-usage-per-part, server-defaults.properties)
+     */
+    @ExceptionHandler(DataBufferLimitException.class)
+    public ResponseEntity<ErrorResponse> handleDataBufferLimitException(
+            DataBufferLimitException e, ServerHttpRequest request) {
+        log.error("파일 크기 초과: {}", e.getMessage());
+        return error(HttpStatus.PAYLOAD_TOO_LARGE, "File Size Exceeded",
+                "업로드 파일 크기가 제한(20MB)을 초과했습니다.", request);
+    }
+
+    /**
+     * 요청 본문 해석 실패. 멀티파트 제한 초과가 감싸져 올라온 경우는 크기 초과로 처리한다.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(
+            ServerWebInputException e, ServerHttpRequest request) {
+        if (NestedExceptionUtils.getRootCause(e) instanceof DataBufferLimitException limit) {
+            return handleDataBufferLimitException(limit, request);
+        }
+        log.error("잘못된 요청: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", e.getReason(), request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+            IllegalArgumentException e, ServerHttpRequest request) {
+        log.error("잘못된 요청: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(
+            Exception e, ServerHttpRequest request) {
+        log.error("예상치 못한 에러 발생: {}", e.getMessage(), e);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "서버 내부 오류가 발생했습니다. 관리자에게 문의하세요.", request);
+    }
+
+    private ResponseEntity<ErrorResponse> error(
+            HttpStatus status, String error, String message, ServerHttpRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(), error, message, request.getPath().value());
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
@@ -3,6 +3,9 @@ package com.example.imgserver.service;
 import com.example.imgserver.domain.dto.ImageUploadResponse;
 import com.example.imgserver.exception.InvalidFileException;
 import com.example.imgserver.storage.StorageService;
+import com.example.imgserver.trace.RequestTraceContext;
+import com.example.imgserver.trace.TraceSpan;
+import com.example.imgserver.trace.TraceStage;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,7 +55,9 @@ public class ImageService {
         String storeFileName = UUID.randomUUID() + extension;
         String datePath = LocalDate.now().toString().replace("-", "/");
 
-        storageService.store(project, datePath, storeFileName, file);
+        try (TraceSpan span = RequestTraceContext.storageSpan(TraceStage.STORAGE_STORE, "store", storeFileName)) {
+            storageService.store(project, datePath, storeFileName, file);
+        }
         log.info("이미지 업로드 성공: project={}, path={}/{}", project, datePath, storeFileName);
 
         String accessUrl = urlPrefix + "/" + project + "/" + datePath + "/" + storeFileName;
@@ -68,9 +73,12 @@ public class ImageService {
      * @return 이미지 리소스
      */
     public Resource loadImage(String project, String datePath, String filename) {
-        Resource resource = storageService.load(project, datePath, filename);
+        Resource resource;
+        try (TraceSpan span = RequestTraceContext.storageSpan(TraceStage.STORAGE_LOAD, "load", filename)) {
+            resource = storageService.load(project, datePath, filename);
+        }
 
-        String contentType = storageService.probeContentType(resource);
+        String contentType = probeContentType(resource);
         if (contentType == null || !contentType.startsWith("image/")) {
             log.error("이미지 파일이 아님: {}", filename);
             throw new InvalidFileException("이미지 파일이 아닙니다: " + filename);
@@ -87,7 +95,7 @@ public class ImageService {
      * @return Content-Type 문자열
      */
     public String getContentType(Resource resource) {
-        String contentType = storageService.probeContentType(resource);
+        String contentType = probeContentType(resource);
         if (contentType == null) {
             log.warn("Content-Type 감지 실패, 기본값(image/jpeg) 사용");
             return "image/jpeg";
@@ -95,6 +103,13 @@ public class ImageService {
         return contentType;
     }
 
+    private String probeContentType(Resource resource) {
+        try (TraceSpan span = RequestTraceContext.storageSpan(
+                TraceStage.CONTENT_TYPE_PROBE, "probeContentType", resource.getFilename())) {
+            return storageService.probeContentType(resource);
+        }
+    }
+
     // ─── 유효성 검사 ────────────────────────────────────────────────────────────
 
     private void validateFile(MultipartFile file) {
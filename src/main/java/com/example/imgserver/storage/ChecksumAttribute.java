@@ -0,0 +1,68 @@
+package com.example.imgserver.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
+
+/**
+ * 이미지 파일의 CRC32C 를 사용자 확장 속성({@code user.crc32c}, 16진수 문자열)으로 읽고 쓴다.
+ * <p>
+ * 별도 사이드카 파일이 없으므로 업로드당 fsync 대상은 이미지 파일 하나뿐이다.
+ * 확장 속성을 지원하지 않는 파일시스템에서는 체크섬 없이 저장되고 조회 시 검증을 건너뛴다.
+ * <pre>
+ *   getfattr -n user.crc32c 550e84...jpg
+ * </pre>
+ */
+@Slf4j
+final class ChecksumAttribute {
+
+    private static final String NAME = "crc32c";
+
+    private static volatile boolean unsupportedLogged;
+
+    private ChecksumAttribute() {
+    }
+
+    static void write(Path file, long checksum) {
+        UserDefinedFileAttributeView view = Files.getFileAttributeView(file, UserDefinedFileAttributeView.class);
+        if (view == null) {
+            warnUnsupported(file, null);
+            return;
+        }
+        try {
+            view.write(NAME, StandardCharsets.US_ASCII.encode(Long.toHexString(checksum)));
+        } catch (IOException | UnsupportedOperationException e) {
+            warnUnsupported(file, e);
+        }
+    }
+
+    /**
+     * 저장된 체크섬. 속성이 없거나 읽을 수 없으면 null.
+     */
+    static Long read(Path file) {
+        UserDefinedFileAttributeView view = Files.getFileAttributeView(file, UserDefinedFileAttributeView.class);
+        if (view == null) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(view.size(NAME));
+            view.read(NAME, buffer);
+            buffer.flip();
+            return Long.parseLong(StandardCharsets.US_ASCII.decode(buffer).toString(), 16);
+        } catch (IOException | UnsupportedOperationException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void warnUnsupported(Path file, Exception cause) {
+        if (!unsupportedLogged) {
+            unsupportedLogged = true;
+            log.warn("확장 속성 미지원, 체크섬 없이 저장: {} ({})", file, cause != null ? cause.getMessage() : "no view");
+        }
+    }
+}
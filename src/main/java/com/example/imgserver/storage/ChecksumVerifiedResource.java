@@ -0,0 +1,110 @@
+package com.example.imgserver.storage;
+
+import com.example.imgserver.exception.ImageCorruptedException;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+/**
+ * 읽는 동안 체크섬을 검증하는 파일 리소스.
+ * <p>
+ * 모든 읽기 경로({@link #getInputStream()}, {@link #readableChannel()}, {@code getContentAs*})가
+ * {@link ChecksumVerifier} 를 거친다. 불일치 시 스트림은 {@link IOException} 을 던진다.
+ * 리액티브 어댑터는 {@link #newVerifier()} 로 같은 검증을 {@code DataBuffer} 에 적용한다.
+ */
+class ChecksumVerifiedResource extends FileSystemResource {
+
+    private final long expectedChecksum;
+
+    ChecksumVerifiedResource(Path path, long expectedChecksum) {
+        super(path);
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    ChecksumVerifier newVerifier() throws IOException {
+        return new ChecksumVerifier(expectedChecksum, contentLength(), getFilename());
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new VerifyingInputStream(super.getInputStream(), newVerifier());
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException {
+        return Channels.newChannel(getInputStream());
+    }
+
+    @Override
+    public byte[] getContentAsByteArray() throws IOException {
+        return FileCopyUtils.copyToByteArray(getInputStream());
+    }
+
+    @Override
+    public String getContentAsString(Charset charset) throws IOException {
+        return new String(getContentAsByteArray(), charset);
+    }
+
+    private static final class VerifyingInputStream extends FilterInputStream {
+
+        private final ChecksumVerifier verifier;
+
+        VerifyingInputStream(InputStream in, ChecksumVerifier verifier) {
+            super(in);
+            this.verifier = verifier;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                verify(new byte[] {(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = super.read(bytes, offset, length);
+            if (count > 0) {
+                verify(bytes, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // 건너뛴 구간도 체크섬에 포함해야 하므로 읽어서 버린다
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (count < 0) {
+                    break;
+                }
+                skipped += count;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void verify(byte[] bytes, int offset, int count) throws IOException {
+            try {
+                verifier.update(bytes, offset, count);
+            } catch (ImageCorruptedException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.imgserver.storage;
+
+import com.example.imgserver.exception.ImageCorruptedException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * 응답 본문을 보내는 동안 CRC32C 를 누적하고, 마지막 청크를 내보내기 직전에 저장된 값과 비교한다.
+ * <p>
+ * 불일치하면 마지막 청크가 전송되지 않으므로 클라이언트는 Content-Length 보다 짧은 본문을 받고
+ * 전송 실패로 처리한다. 별도의 선행 읽기가 없어 첫 바이트 지연(TTFB)에 영향이 없다.
+ * 스트림 하나당 인스턴스 하나를 쓴다.
+ */
+@Slf4j
+final class ChecksumVerifier {
+
+    private final CRC32C crc = new CRC32C();
+    private final long expected;
+    private final long length;
+    private final String filename;
+    private long consumed;
+
+    ChecksumVerifier(long expected, long length, String filename) {
+        this.expected = expected;
+        this.length = length;
+        this.filename = filename;
+    }
+
+    void update(byte[] bytes, int offset, int count) {
+        crc.update(bytes, offset, count);
+        advance(count);
+    }
+
+    void update(ByteBuffer buffer) {
+        int count = buffer.remaining();
+        crc.update(buffer);
+        advance(count);
+    }
+
+    private void advance(int count) {
+        consumed += count;
+        if (consumed >= length && crc.getValue() != expected) {
+            log.error("체크섬 불일치: {} (expected={}, actual={})",
+                    filename, Long.toHexString(expected), Long.toHexString(crc.getValue()));
+            throw new ImageCorruptedException("이미지 파일이 손상되었습니다: " + filename);
+        }
+    }
+}
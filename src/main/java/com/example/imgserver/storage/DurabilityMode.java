@@ -0,0 +1,26 @@
+package com.example.imgserver.storage;
+
+/**
+ * 업로드 파일의 내구성(durability) 수준.
+ * <p>
+ * {@code image.durability.mode} 로 선택한다. 모든 모드에서 CRC32C 체크섬을 기록하고
+ * 조회 시 검증한다.
+ * <pre>
+ *   none          → 최종 경로에 바로 기록 (기존 동작)
+ *   atomic        → 임시 파일에 기록 후 rename (부분 파일 노출 방지, fsync 없음)
+ *   fsync         → atomic + 파일 데이터 fsync + 디렉터리 fsync (업로드마다)
+ *   group-commit  → 파일 데이터 fsync 는 업로드 스레드에서 병렬로,
+ *                   rename 과 디렉터리 fsync 는 동시 업로드를 배치로 묶어 한 번에 처리
+ * </pre>
+ * group-commit 도 업로드마다 fdatasync 한 번은 여전히 호출한다. Java 에는 여러 파일을 한 번에 내리는
+ * 호출({@code syncfs} 등)이 없고, 동시에 들어온 fdatasync 는 파일시스템 저널이 한 커밋으로 합치므로
+ * 배치로 묶어 얻는 이득은 디렉터리 fsync 쪽에 있다. 자세한 내용은 {@link GroupCommitSyncer} 참고.
+ * 파일 fsync 는 데이터만 반영(fdatasync)한다. 체크섬 확장 속성은 디렉터리 fsync 때 함께 커밋되는
+ * 파일시스템 저널에 의존하며, 유실되더라도 검증만 건너뛸 뿐 이미지는 정상 제공된다.
+ */
+public enum DurabilityMode {
+    NONE,
+    ATOMIC,
+    FSYNC,
+    GROUP_COMMIT
+}
@@ -0,0 +1,43 @@
+package com.example.imgserver.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * fsync / rename 헬퍼.
+ */
+@Slf4j
+final class FileSync {
+
+    private FileSync() {
+    }
+
+    /**
+     * 임시 파일 → 최종 경로 이동 한 건.
+     */
+    record PendingMove(Path source, Path target) {
+    }
+
+    /**
+     * rename 결과(디렉터리 엔트리)를 디스크에 반영한다.
+     * Windows 등 디렉터리를 열 수 없는 환경에서는 건너뛴다.
+     */
+    static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("디렉터리 fsync 미지원, 건너뜀: {}", dir);
+        }
+    }
+
+    static void moveAtomically(PendingMove move) throws IOException {
+        Files.move(move.source(), move.target(),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
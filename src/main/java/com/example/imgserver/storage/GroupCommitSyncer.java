@@ -0,0 +1,219 @@
+package com.example.imgserver.storage;
+
+import com.example.imgserver.storage.FileSync.PendingMove;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시 업로드의 rename 과 디렉터리 fsync 를 묶어 처리하는 그룹 커밋 워커.
+ * <p>
+ * 파일 내용 fsync 는 업로드 스레드가 각자(병렬로) 마친 뒤 {@link #commit(PendingMove)} 를 호출한다.
+ * 워커 스레드 하나가 쌓인 요청을 배치로 꺼내 rename 하고, 배치에 등장한 디렉터리마다 fsync 를 한 번만 한 뒤
+ * 한꺼번에 깨운다. 따라서 업로드당 디렉터리 fsync 가 배치 단위로 분담된다.
+ * <p>
+ * 파일 데이터 fsync 는 묶지 않는다. Java 에는 {@code syncfs} 같은 여러 파일을 한 번에 내리는 호출이 없어
+ * 워커가 배치의 채널을 모아 force 해도 결국 파일마다 fdatasync 한 번씩이고, 이를 업로드 스레드에서
+ * 동시에 호출하면 ext4/xfs 등 저널링 파일시스템이 같은 저널 커밋으로 합쳐 준다. 따라서 이 모드가
+ * {@code fsync} 모드보다 줄이는 것은 디렉터리 fsync 와 그 저널 커밋이다.
+ * <p>
+ * 한 배치를 처리하는 동안 들어온 요청은 다음 배치로 모이므로, 한가할 때는 대기 없이 바로 처리되고
+ * 피크 때는 배치가 커진다. {@code windowMs} 를 주면 첫 요청 이후 그 시간만큼 더 모은 뒤 처리한다.
+ * <p>
+ * 배치 처리 중 예상치 못한 예외가 나도 해당 배치만 실패 처리하고 워커는 계속 돈다.
+ * 업로드 스레드는 최대 {@code timeoutMs} 만 기다린다.
+ */
+@Slf4j
+class GroupCommitSyncer implements AutoCloseable {
+
+    private static final int MAX_BATCH = 256;
+
+    /**
+     * 대기 중인 요청 한 건. 업로드 스레드가 시간 초과로 포기한 요청은 rename 하지 않고,
+     * 이미 rename 된 뒤였다면 되돌려 클라이언트가 모르는 파일이 남지 않게 한다.
+     */
+    private static final class PendingCommit {
+
+        private final PendingMove move;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private boolean moved;
+        private boolean abandoned;
+
+        private PendingCommit(PendingMove move) {
+            this.move = move;
+        }
+
+        /**
+         * @return rename 했으면 true, 업로드 스레드가 이미 포기했으면 false
+         */
+        private synchronized boolean moveUnlessAbandoned() throws IOException {
+            if (abandoned) {
+                return false;
+            }
+            FileSync.moveAtomically(move);
+            moved = true;
+            return true;
+        }
+
+        /**
+         * 업로드 스레드가 더 기다리지 않기로 했을 때 호출한다.
+         *
+         * @return 포기(필요 시 되돌림)했으면 true, 그 사이 커밋이 끝나 있었으면 false
+         */
+        private synchronized boolean abandon() {
+            if (done.isDone() && !done.isCompletedExceptionally()) {
+                return false;
+            }
+            abandoned = true;
+            if (moved) {
+                try {
+                    Files.deleteIfExists(move.target());
+                } catch (IOException e) {
+                    log.warn("그룹 커밋 시간 초과 후 되돌리기 실패: {}", move.target(), e);
+                }
+            }
+            return true;
+        }
+    }
+
+    private final BlockingQueue<PendingCommit> queue = new LinkedBlockingQueue<>();
+    private final long windowNanos;
+    private final long timeoutNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    GroupCommitSyncer(long windowMs, long timeoutMs) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.worker = new Thread(this::run, "image-group-commit");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * fsync 가 끝난 임시 파일의 rename 을 배치에 넣고, 디렉터리 fsync 까지 끝날 때까지 기다린다.
+     */
+    void commit(PendingMove move) throws IOException {
+        if (!running) {
+            throw new IOException("그룹 커밋 워커가 종료되었습니다.");
+        }
+        PendingCommit pending = new PendingCommit(move);
+        queue.add(pending);
+        // close() 가 큐를 비운 직후에 들어온 경우
+        if (!running && queue.remove(pending)) {
+            throw new IOException("그룹 커밋 워커가 종료되었습니다.");
+        }
+        try {
+            pending.done.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (pending.abandon()) {
+                throw new IOException("그룹 커밋 대기 시간을 초과했습니다.", e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.abandon()) {
+                throw new InterruptedIOException("그룹 커밋 대기 중 인터럽트되었습니다.");
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("그룹 커밋 실패", e.getCause());
+        }
+    }
+
+    private void run() {
+        List<PendingCommit> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCommit first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectWithinWindow(batch);
+                queue.drainTo(batch, MAX_BATCH - batch.size());
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(batch, new InterruptedIOException("그룹 커밋 워커가 중단되었습니다."));
+                return;
+            } catch (RuntimeException e) {
+                log.error("그룹 커밋 배치 처리 실패: {}건", batch.size(), e);
+                fail(batch, new IOException("그룹 커밋 배치 처리 실패", e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 아직 완료되지 않은 요청만 실패 처리된다.
+     */
+    private static void fail(List<PendingCommit> batch, Throwable cause) {
+        batch.forEach(commit -> commit.done.completeExceptionally(cause));
+    }
+
+    private void collectWithinWindow(List<PendingCommit> batch) throws InterruptedException {
+        if (windowNanos <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < MAX_BATCH) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingCommit next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingCommit> batch) {
+        Set<Path> dirs = new LinkedHashSet<>();
+        List<PendingCommit> moved = new ArrayList<>(batch.size());
+        for (PendingCommit commit : batch) {
+            try {
+                if (commit.moveUnlessAbandoned()) {
+                    dirs.add(commit.move.target().getParent());
+                    moved.add(commit);
+                }
+            } catch (IOException e) {
+                commit.done.completeExceptionally(e);
+            }
+        }
+
+        dirs.forEach(FileSync::syncDirectory);
+        moved.forEach(commit -> commit.done.complete(null));
+        log.debug("그룹 커밋 완료: {}건, 디렉터리 {}개", moved.size(), dirs.size());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingCommit> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        fail(leftover, new IOException("그룹 커밋 워커가 종료되었습니다."));
+    }
+}
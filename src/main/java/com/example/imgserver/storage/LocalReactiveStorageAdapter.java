@@ -0,0 +1,110 @@
+package com.example.imgserver.storage;
+
+import com.example.imgserver.exception.ImageNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 로컬 파일을 {@link AsynchronousFileChannel} 로 읽는 리액티브 어댑터.
+ * <p>
+ * 파일 I/O 는 고정 크기 전용 스레드 풀에서 수행되고, 한 다운로드가 동시에 붙잡는 버퍼는
+ * {@code prefetch} 개로 제한된다. 버퍼는 응답의 팩토리(Netty 풀드 할당자)에서 할당되어 재사용된다.
+ * 체크섬이 있는 파일은 청크를 내보내며 검증한다.
+ * <pre>
+ *   image:
+ *     reactive:
+ *       buffer-size: 64KB
+ *       prefetch: 4
+ *       file-io-threads: 4
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "image.storage", havingValue = "local", matchIfMissing = true)
+public class LocalReactiveStorageAdapter implements ReactiveStorageAdapter {
+
+    private final int bufferSize;
+    private final int prefetch;
+    private final ExecutorService fileIoExecutor;
+
+    public LocalReactiveStorageAdapter(
+            @Value("${image.reactive.buffer-size:64KB}") DataSize bufferSize,
+            @Value("${image.reactive.prefetch:4}") int prefetch,
+            @Value("${image.reactive.file-io-threads:4}") int fileIoThreads) {
+        this.bufferSize = (int) bufferSize.toBytes();
+        this.prefetch = prefetch;
+        this.fileIoExecutor = Executors.newFixedThreadPool(fileIoThreads, runnable -> {
+            Thread thread = new Thread(runnable, "image-file-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Flux<DataBuffer> read(Resource resource, DataBufferFactory bufferFactory) {
+        Path path;
+        try {
+            path = resource.getFile().toPath();
+        } catch (IOException e) {
+            log.error("로컬 파일 경로 확인 실패: {}", resource.getFilename(), e);
+            return Flux.error(new ImageNotFoundException("이미지를 찾을 수 없습니다: " + resource.getFilename()));
+        }
+
+        Flux<DataBuffer> body = DataBufferUtils.readAsynchronousFileChannel(
+                        () -> AsynchronousFileChannel.open(path, Set.of(StandardOpenOption.READ), fileIoExecutor),
+                        bufferFactory, bufferSize)
+                .limitRate(prefetch);
+
+        if (resource instanceof ChecksumVerifiedResource verified) {
+            return Flux.defer(() -> {
+                ChecksumVerifier verifier;
+                try {
+                    verifier = verified.newVerifier();
+                } catch (IOException e) {
+                    return Flux.error(e);
+                }
+                return body.map(buffer -> verify(buffer, verifier));
+            });
+        }
+        return body;
+    }
+
+    /**
+     * 청크를 체크섬에 반영한다. 불일치하면 버퍼를 해제하고 스트림을 에러로 끝낸다.
+     */
+    private static DataBuffer verify(DataBuffer buffer, ChecksumVerifier verifier) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                verifier.update(iterator.next());
+            }
+            return buffer;
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fileIoExecutor.shutdown();
+    }
+}
@@ -2,6 +2,9 @@ package com.example.imgserver.storage;
 
 import com.example.imgserver.exception.ImageNotFoundException;
 import com.example.imgserver.exception.ImageUploadException;
+import com.example.imgserver.storage.FileSync.PendingMove;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -12,16 +15,41 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
 
 /**
  * 로컬 파일시스템 기반 저장소 구현체.
  * <p>
  * {@code image.storage=local} (기본값) 일 때 활성화된다.
  * MinIO 로 전환 시 이 클래스 대신 MinioStorageService 가 주입된다.
+ * <p>
+ * 저장 시 CRC32C 체크섬을 스트리밍으로 계산해 파일의 확장 속성({@link ChecksumAttribute})에 기록하고,
+ * 조회 시에는 응답 본문을 보내면서 다시 계산해 마지막 청크 직전에 비교한다({@link ChecksumVerifiedResource}).
+ * 선행 읽기가 없으므로 추가 비용은 전송 중 CRC 계산뿐이다. 쓰기 방식은 {@link DurabilityMode} 참고.
+ * <p>
+ * 기록 도중 프로세스가 죽어 남은 임시 파일({@code .<파일명>.tmp})은 기동 시 백그라운드에서
+ * {@code stale-temp-age} 보다 오래된 것만 지운다.
+ * <pre>
+ *   image:
+ *     durability:
+ *       mode: group-commit          # none | atomic (기본값) | fsync | group-commit
+ *       verify-on-read: true        # 전송 중 체크섬 검증
+ *       group-commit-window-ms: 0   # 배치를 모으는 추가 대기 시간
+ *       group-commit-timeout-ms: 10000  # 업로드 스레드의 최대 대기 시간
+ *       stale-temp-age: 1h          # 이보다 오래된 임시 파일은 기동 시 삭제
+ * </pre>
  */
 @Slf4j
 @Service
@@ -33,9 +61,47 @@ import java.nio.file.Paths;
 //     matchIfMissing: 프로퍼티가 설정 파일에 없을 때 기본으로 조건 충족 여부 (기본값 false)
 public class LocalStorageService implements StorageService {
 
+    private static final String TEMP_SUFFIX = ".tmp";
+
     @Value("${image.dir}")
     private String uploadDir;
 
+    @Value("${image.durability.mode:atomic}")
+    private DurabilityMode durabilityMode;
+
+    @Value("${image.durability.verify-on-read:true}")
+    private boolean verifyOnRead;
+
+    @Value("${image.durability.group-commit-window-ms:0}")
+    private long groupCommitWindowMs;
+
+    @Value("${image.durability.group-commit-timeout-ms:10000}")
+    private long groupCommitTimeoutMs;
+
+    @Value("${image.durability.stale-temp-age:1h}")
+    private Duration staleTempAge;
+
+    private GroupCommitSyncer groupCommitSyncer;
+
+    @PostConstruct
+    void init() {
+        if (durabilityMode == DurabilityMode.GROUP_COMMIT) {
+            groupCommitSyncer = new GroupCommitSyncer(groupCommitWindowMs, groupCommitTimeoutMs);
+        }
+        log.info("로컬 저장소 내구성 모드: {}", durabilityMode);
+
+        Thread cleaner = new Thread(this::deleteStaleTempFiles, "image-temp-cleaner");
+        cleaner.setDaemon(true);
+        cleaner.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (groupCommitSyncer != null) {
+            groupCommitSyncer.close();
+        }
+    }
+
     @Override
     public void store(String project, String datePath, String filename, MultipartFile file) {
         String dirPath = uploadDir + "/" + project + "/" + datePath;
@@ -52,7 +118,11 @@ public class LocalStorageService implements StorageService {
 
         Path fullPath = Paths.get(dirPath, filename);
         try {
-            file.transferTo(fullPath);
+            if (durabilityMode == DurabilityMode.NONE) {
+                writeWithChecksum(file, fullPath, false);
+            } else {
+                storeViaTempFile(file, fullPath);
+            }
             log.info("파일 저장 완료: {}", fullPath);
         } catch (IOException e) {
             log.error("파일 저장 실패: {}", fullPath, e);
@@ -69,6 +139,12 @@ public class LocalStorageService implements StorageService {
                 log.error("이미지를 찾을 수 없거나 읽을 수 없음: {}", filePath);
                 throw new ImageNotFoundException("이미지를 찾을 수 없습니다: " + filename);
             }
+            if (verifyOnRead) {
+                Long expected = ChecksumAttribute.read(filePath);
+                if (expected != null) {
+                    return new ChecksumVerifiedResource(filePath, expected);
+                }
+            }
             return resource;
         } catch (MalformedURLException e) {
             log.error("잘못된 파일 경로: {}", filePath, e);
@@ -85,4 +161,89 @@ public class LocalStorageService implements StorageService {
             return null;
         }
     }
+
+    // ─── 내구성 / 체크섬 ────────────────────────────────────────────────────────
+
+    /**
+     * 임시 파일에 기록한 뒤 모드에 맞게 최종 경로로 옮긴다.
+     * fsync 가 필요한 모드에서는 파일 내용 fsync 를 업로드 스레드에서 마치고,
+     * rename 과 디렉터리 fsync 만 모드에 따라 처리한다.
+     */
+    private void storeViaTempFile(MultipartFile file, Path fullPath) throws IOException {
+        Path tempFile = tempPathOf(fullPath);
+        try {
+            boolean sync = durabilityMode == DurabilityMode.FSYNC || durabilityMode == DurabilityMode.GROUP_COMMIT;
+            writeWithChecksum(file, tempFile, sync);
+
+            PendingMove move = new PendingMove(tempFile, fullPath);
+            switch (durabilityMode) {
+                case ATOMIC -> FileSync.moveAtomically(move);
+                case FSYNC -> {
+                    FileSync.moveAtomically(move);
+                    FileSync.syncDirectory(fullPath.getParent());
+                }
+                case GROUP_COMMIT -> groupCommitSyncer.commit(move);
+                default -> throw new IllegalStateException("지원하지 않는 내구성 모드: " + durabilityMode);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 업로드 내용을 기록하면서 CRC32C 를 계산해 확장 속성에 남긴다.
+     * {@code sync} 이면 닫기 전에 데이터를 fsync(fdatasync) 한다.
+     */
+    private void writeWithChecksum(MultipartFile file, Path target, boolean sync) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (InputStream in = new CheckedInputStream(file.getInputStream(), crc);
+             FileChannel channel = FileChannel.open(target,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            in.transferTo(Channels.newOutputStream(channel));
+            ChecksumAttribute.write(target, crc.getValue());
+            if (sync) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * 업로드 디렉터리에서 오래된 임시 파일을 지운다.
+     * 다른 인스턴스가 기록 중일 수 있으므로 {@code staleTempAge} 가 지난 것만 대상으로 한다.
+     *
+     * @return 삭제한 파일 수
+     */
+    int deleteStaleTempFiles() {
+        Path root = Paths.get(uploadDir);
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        long cutoff = System.currentTimeMillis() - staleTempAge.toMillis();
+        int deleted = 0;
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                String name = path.getFileName().toString();
+                if (!name.startsWith(".") || !name.endsWith(TEMP_SUFFIX)) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(path).toMillis() < cutoff && Files.deleteIfExists(path)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("임시 파일 삭제 실패: {}", path);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("임시 파일 정리 중단: {}", root, e);
+        }
+        if (deleted > 0) {
+            log.info("남은 임시 파일 정리: {}개", deleted);
+        }
+        return deleted;
+    }
+
+    private static Path tempPathOf(Path filePath) {
+        return filePath.resolveSibling("." + filePath.getFileName() + TEMP_SUFFIX);
+    }
 }
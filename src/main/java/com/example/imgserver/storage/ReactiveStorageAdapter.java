@@ -0,0 +1,31 @@
+package com.example.imgserver.storage;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+
+/**
+ * 리액티브(WebFlux) 서빙 시 {@link StorageService#load} 로 얻은 리소스를 논블로킹으로 읽는 어댑터.
+ * <p>
+ * {@code spring.main.web-application-type=reactive} 일 때만 등록되며,
+ * {@code image.storage} 값에 따라 구현체가 선택된다.
+ * <pre>
+ *   image.storage: local  → LocalReactiveStorageAdapter (AsynchronousFileChannel)
+ * </pre>
+ * MinIO 용 구현은 {@link MinioStorageService} 구현 후 추가한다.
+ * 그 전까지 리액티브 + MinIO 조합은 어댑터 빈이 없어 기동 시점에 실패한다.
+ */
+public interface ReactiveStorageAdapter {
+
+    /**
+     * 리소스를 {@link DataBuffer} 청크 스트림으로 읽는다.
+     * 구독자가 요청(demand)한 만큼만 읽으므로, 느린 클라이언트는 메모리에 데이터를 쌓지 않는다.
+     * 각 버퍼는 응답 기록 후 해제된다.
+     *
+     * @param resource      {@link StorageService#load} 결과
+     * @param bufferFactory 응답의 버퍼 팩토리 (Netty 풀드 할당자)
+     * @return 파일 내용 청크 스트림
+     */
+    Flux<DataBuffer> read(Resource resource, DataBufferFactory bufferFactory);
+}
@@ -0,0 +1,46 @@
+package com.example.imgserver.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * {@link RequestTraceFilter} 의 WebFlux 버전.
+ * <p>
+ * 스레드가 요청을 따라가지 않으므로 트레이스를 Reactor Context 로 전달한다.
+ * 컨트롤러가 블로킹 구간을 {@link RequestTraceContext#callWith} 로 실행하면 그 안의 구간이 기록된다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveRequestTraceFilter implements WebFilter {
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String requestId = RequestTraceFilter.resolveRequestId(
+                request.getHeaders().getFirst(RequestTraceFilter.REQUEST_ID_HEADER));
+        RequestTrace trace = new RequestTrace(requestId, request.getMethod().name(), request.getPath().value());
+
+        exchange.getResponse().getHeaders().set(RequestTraceFilter.REQUEST_ID_HEADER, requestId);
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    trace.finish(status != null ? status.value() : 200);
+                    slowRequestRecorder.record(trace);
+                })
+                .contextWrite(Context.of(RequestTraceContext.REACTOR_KEY, trace));
+    }
+}
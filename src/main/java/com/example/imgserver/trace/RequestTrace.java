@@ -0,0 +1,64 @@
+package com.example.imgserver.trace;
+
+import lombok.Getter;
+
+/**
+ * 요청 하나의 구간별 소요 시간.
+ * 한 스레드에서만 갱신되므로 동기화하지 않는다.
+ */
+@Getter
+public class RequestTrace {
+
+    private final String requestId;
+    private final String method;
+    private final String path;
+    private final long startEpochMillis;
+    private final long startNanos;
+    private final long[] stageNanos = new long[TraceStage.values().length];
+    private long handlerStartNanos;
+    private long totalNanos;
+    private int status;
+
+    public RequestTrace(String requestId, String method, String path) {
+        this.requestId = requestId;
+        this.method = method;
+        this.path = path;
+        this.startEpochMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 구간 시간을 누적한다. (같은 구간이 여러 번 호출되면 합산)
+     */
+    public void add(TraceStage stage, long nanos) {
+        stageNanos[stage.ordinal()] += nanos;
+    }
+
+    /**
+     * 첫 HANDLER 구간의 시작 시각을 기록한다.
+     */
+    void markHandlerStart(long nanos) {
+        if (handlerStartNanos == 0) {
+            handlerStartNanos = nanos;
+        }
+    }
+
+    public long stageNanos(TraceStage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+
+    /**
+     * 요청 종료 처리. 핸들러 이전 시간은 요청 읽기, 이후 시간은 응답 전송 구간으로 기록한다.
+     */
+    public void finish(int status) {
+        this.status = status;
+        this.totalNanos = System.nanoTime() - startNanos;
+        if (handlerStartNanos == 0) {
+            return;
+        }
+        long requestRead = Math.max(0, handlerStartNanos - startNanos);
+        long handler = stageNanos(TraceStage.HANDLER);
+        stageNanos[TraceStage.REQUEST_READ.ordinal()] = requestRead;
+        stageNanos[TraceStage.RESPONSE_WRITE.ordinal()] = Math.max(0, totalNanos - requestRead - handler);
+    }
+}
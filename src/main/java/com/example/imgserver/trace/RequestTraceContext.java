@@ -0,0 +1,77 @@
+package com.example.imgserver.trace;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 현재 스레드의 {@link RequestTrace} 보관소.
+ * <p>
+ * 서블릿 스택에서는 {@link RequestTraceFilter} 가 요청 시작 시 설정하고 종료 시 제거한다.
+ * 리액티브 스택에서는 {@link ReactiveRequestTraceFilter} 가 Reactor Context 의 {@link #REACTOR_KEY} 에 넣고,
+ * 블로킹 구간을 실행하는 쪽이 {@link #callWith} 로 해당 스레드에 잠시 설정한다.
+ * 트레이스가 없는 스레드(배치 등)에서는 span 이 아무것도 하지 않는다.
+ */
+public final class RequestTraceContext {
+
+    /**
+     * Reactor Context 에서 {@link RequestTrace} 를 찾는 키
+     */
+    public static final String REACTOR_KEY = RequestTrace.class.getName();
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private RequestTraceContext() {
+    }
+
+    static void set(RequestTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드에 트레이스를 설정한 채로 실행한다. (리액티브 스택의 블로킹 구간용)
+     * trace 가 null 이면 그냥 실행한다.
+     */
+    public static <T> T callWith(RequestTrace trace, Callable<T> action) throws Exception {
+        if (trace == null) {
+            return action.call();
+        }
+        RequestTrace previous = CURRENT.get();
+        CURRENT.set(trace);
+        try {
+            return action.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static TraceSpan span(TraceStage stage) {
+        RequestTrace trace = CURRENT.get();
+        return trace != null ? new TraceSpan(trace, stage, null) : TraceSpan.NOOP;
+    }
+
+    /**
+     * 저장소 호출 구간. 요청 트레이스와 함께 JFR {@code com.example.imgserver.Storage} 이벤트를 남긴다.
+     */
+    public static TraceSpan storageSpan(TraceStage stage, String operation, String filename) {
+        RequestTrace trace = CURRENT.get();
+        StorageEvent event = new StorageEvent();
+        if (!event.isEnabled()) {
+            return trace != null ? new TraceSpan(trace, stage, null) : TraceSpan.NOOP;
+        }
+        event.operation = operation;
+        event.filename = filename;
+        event.requestId = trace != null ? trace.getRequestId() : null;
+        return new TraceSpan(trace, stage, event);
+    }
+}
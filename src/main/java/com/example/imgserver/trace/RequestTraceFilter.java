@@ -0,0 +1,66 @@
+package com.example.imgserver.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 요청 ID 전파와 요청별 트레이스 수집 (서블릿 스택).
+ * <p>
+ * {@code X-Request-Id} 헤더가 있으면 그대로, 없으면 새로 만들어 응답 헤더와 로그 MDC({@code requestId})에 넣는다.
+ * 요청이 끝나면 {@link SlowRequestRecorder} 에 넘긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+        RequestTrace trace = new RequestTrace(requestId, request.getMethod(), request.getRequestURI());
+
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(MDC_KEY, requestId);
+        RequestTraceContext.set(trace);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            trace.finish(response.getStatus());
+            RequestTraceContext.clear();
+            MDC.remove(MDC_KEY);
+            slowRequestRecorder.record(trace);
+        }
+    }
+
+    /**
+     * 외부에서 받은 ID 는 길이와 문자를 제한한다. (로그/헤더 주입 방지)
+     */
+    static String resolveRequestId(String header) {
+        if (header != null && !header.isBlank() && header.length() <= MAX_REQUEST_ID_LENGTH
+                && header.chars().allMatch(c -> Character.isLetterOrDigit(c) || c == '-' || c == '_')) {
+            return header;
+        }
+        return UUID.randomUUID().toString();
+    }
+}
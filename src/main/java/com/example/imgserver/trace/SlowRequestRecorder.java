@@ -0,0 +1,170 @@
+package com.example.imgserver.trace;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 {@code slow-window} 동안 가장 느린 요청 N개를 보관한다.
+ * <p>
+ * 창을 {@value #BUCKET_COUNT}개 구간으로 나눠 구간마다 느린 요청 N개를 따로 모으고, 조회 시에는
+ * 창 안에 있는 구간만 합쳐 상위 N개를 돌려준다. 오래된 구간은 재사용될 때 비워지므로 기동 직후나
+ * GC 때의 이상치가 계속 남지 않는다.
+ * <p>
+ * 현재 구간이 찼을 때 그 구간의 가장 빠른 항목보다 빠른 요청은 락 없이 바로 버린다.
+ * 구간이 바뀌면 이 기준도 임계값으로 다시 내려간다. 대부분의 요청은 이 경로로 끝나므로 상시 켜둬도 부담이 작다.
+ * <pre>
+ *   image:
+ *     trace:
+ *       slowest-size: 50        # 보관 개수
+ *       slow-threshold-ms: 0    # 이 시간 이상 걸린 요청만 후보
+ *       slow-window: 10m        # 이보다 오래된 요청은 목록에서 빠진다
+ * </pre>
+ */
+@Component
+public class SlowRequestRecorder {
+
+    private static final int BUCKET_COUNT = 5;
+
+    private final int capacity;
+    private final long thresholdNanos;
+    private final long intervalMillis;
+    private final LongSupplier clock;
+    private final Bucket[] buckets = new Bucket[BUCKET_COUNT];
+    private volatile long currentInterval = Long.MIN_VALUE;
+    private volatile long floorNanos;
+
+    @Autowired
+    public SlowRequestRecorder(
+            @Value("${image.trace.slowest-size:50}") int capacity,
+            @Value("${image.trace.slow-threshold-ms:0}") long thresholdMs,
+            @Value("${image.trace.slow-window:10m}") Duration window) {
+        this(capacity, thresholdMs, window, System::currentTimeMillis);
+    }
+
+    SlowRequestRecorder(int capacity, long thresholdMs, Duration window, LongSupplier clock) {
+        this.capacity = capacity;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.intervalMillis = Math.max(1, window.toMillis() / BUCKET_COUNT);
+        this.clock = clock;
+        this.floorNanos = thresholdNanos;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new Bucket(capacity);
+        }
+    }
+
+    public void record(RequestTrace trace) {
+        long total = trace.getTotalNanos();
+        if (total < thresholdNanos || capacity == 0) {
+            return;
+        }
+        long interval = clock.getAsLong() / intervalMillis;
+        if (total < floorNanos && interval == currentInterval) {
+            return;
+        }
+        synchronized (this) {
+            if (interval > currentInterval) {
+                currentInterval = interval;
+                floorNanos = thresholdNanos;
+            }
+            Bucket bucket = bucketOf(interval);
+            if (bucket.interval > interval) {
+                return;
+            }
+            if (bucket.interval != interval) {
+                bucket.reset(interval);
+            }
+            if (bucket.offer(trace) && bucket.size == capacity && interval == currentInterval) {
+                floorNanos = Math.max(thresholdNanos, bucket.fastestNanos());
+            }
+        }
+    }
+
+    /**
+     * 창 안에 있는 요청을 느린 순으로 정렬한 복사본.
+     */
+    public synchronized List<RequestTrace> snapshot() {
+        long oldest = clock.getAsLong() / intervalMillis - (BUCKET_COUNT - 1);
+        List<RequestTrace> result = new ArrayList<>();
+        for (Bucket bucket : buckets) {
+            if (bucket.interval < oldest) {
+                continue;
+            }
+            for (int i = 0; i < bucket.size; i++) {
+                result.add(bucket.traces[i]);
+            }
+        }
+        result.sort(Comparator.comparingLong(RequestTrace::getTotalNanos).reversed());
+        return result.size() > capacity ? new ArrayList<>(result.subList(0, capacity)) : result;
+    }
+
+    public synchronized void clear() {
+        for (Bucket bucket : buckets) {
+            bucket.reset(Long.MIN_VALUE);
+        }
+        floorNanos = thresholdNanos;
+    }
+
+    private Bucket bucketOf(long interval) {
+        return buckets[(int) Math.floorMod(interval, (long) BUCKET_COUNT)];
+    }
+
+    /**
+     * 한 구간의 느린 요청 N개. {@link SlowRequestRecorder} 의 락 안에서만 접근한다.
+     */
+    private static final class Bucket {
+
+        private final RequestTrace[] traces;
+        private long interval = Long.MIN_VALUE;
+        private int size;
+
+        private Bucket(int capacity) {
+            this.traces = new RequestTrace[capacity];
+        }
+
+        private void reset(long interval) {
+            for (int i = 0; i < size; i++) {
+                traces[i] = null;
+            }
+            this.size = 0;
+            this.interval = interval;
+        }
+
+        /**
+         * @return 보관했으면 true
+         */
+        private boolean offer(RequestTrace trace) {
+            if (size < traces.length) {
+                traces[size++] = trace;
+                return true;
+            }
+            int minIndex = indexOfFastest();
+            if (trace.getTotalNanos() <= traces[minIndex].getTotalNanos()) {
+                return false;
+            }
+            traces[minIndex] = trace;
+            return true;
+        }
+
+        private long fastestNanos() {
+            return traces[indexOfFastest()].getTotalNanos();
+        }
+
+        private int indexOfFastest() {
+            int minIndex = 0;
+            for (int i = 1; i < size; i++) {
+                if (traces[i].getTotalNanos() < traces[minIndex].getTotalNanos()) {
+                    minIndex = i;
+                }
+            }
+            return minIndex;
+        }
+    }
+}
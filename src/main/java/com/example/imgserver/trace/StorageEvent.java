@@ -0,0 +1,34 @@
+package com.example.imgserver.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 저장소 호출 JFR 이벤트.
+ * <p>
+ * 녹화 중이 아니면 비활성 상태라 비용이 거의 없다. 예:
+ * <pre>
+ *   jcmd &lt;pid&gt; JFR.start name=img settings=profile
+ *   jfr print --events com.example.imgserver.Storage recording.jfr
+ * </pre>
+ */
+@Name("com.example.imgserver.Storage")
+@Label("Image Storage Call")
+@Category({"Image Server", "Storage"})
+@Description("StorageService 호출 (store / load / probeContentType)")
+@StackTrace(false)
+class StorageEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Filename")
+    String filename;
+
+    @Label("Request ID")
+    String requestId;
+}
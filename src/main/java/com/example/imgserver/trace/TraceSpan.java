@@ -0,0 +1,45 @@
+package com.example.imgserver.trace;
+
+/**
+ * 구간 측정 범위. try-with-resources 로 사용한다.
+ * <pre>
+ *   try (TraceSpan span = RequestTraceContext.span(TraceStage.HANDLER)) {
+ *       ...
+ *   }
+ * </pre>
+ */
+public final class TraceSpan implements AutoCloseable {
+
+    static final TraceSpan NOOP = new TraceSpan(null, null, null);
+
+    private final RequestTrace trace;
+    private final TraceStage stage;
+    private final StorageEvent event;
+    private final long startNanos;
+
+    TraceSpan(RequestTrace trace, TraceStage stage, StorageEvent event) {
+        this.trace = trace;
+        this.stage = stage;
+        this.event = event;
+        this.startNanos = trace != null ? System.nanoTime() : 0;
+        if (trace != null && stage == TraceStage.HANDLER) {
+            trace.markHandlerStart(startNanos);
+        }
+        if (event != null) {
+            event.begin();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (trace != null) {
+            trace.add(stage, System.nanoTime() - startNanos);
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        }
+    }
+}
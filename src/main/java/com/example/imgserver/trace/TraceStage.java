@@ -0,0 +1,22 @@
+package com.example.imgserver.trace;
+
+/**
+ * 요청 처리 구간.
+ * <pre>
+ *   REQUEST_READ        요청 시작 ~ 컨트롤러 진입 (멀티파트 본문 파싱, 인자 바인딩 등)
+ *   HANDLER             컨트롤러 메서드 전체 (서비스·저장소 호출 포함)
+ *   STORAGE_STORE       StorageService.store
+ *   STORAGE_LOAD        StorageService.load (파일 확인만, 본문 읽기 없음)
+ *   CONTENT_TYPE_PROBE  StorageService.probeContentType
+ *   RESPONSE_WRITE      컨트롤러 반환 후 본문 전송 (체크섬 검증, 클라이언트 수신 속도 포함)
+ * </pre>
+ * REQUEST_READ, RESPONSE_WRITE 는 HANDLER 의 시작 시각과 전체 시간으로 계산한다.
+ */
+public enum TraceStage {
+    REQUEST_READ,
+    HANDLER,
+    STORAGE_STORE,
+    STORAGE_LOAD,
+    CONTENT_TYPE_PROBE,
+    RESPONSE_WRITE
+}
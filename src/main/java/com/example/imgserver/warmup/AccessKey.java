@@ -0,0 +1,22 @@
+package com.example.imgserver.warmup;
+
+/**
+ * 접근 로그의 이미지 키 ({@code project/yyyy/MM/dd/filename}).
+ */
+public record AccessKey(String project, String datePath, String filename) {
+
+    /**
+     * 로그 한 줄의 키 부분을 파싱한다. 형식이 맞지 않으면 null.
+     */
+    static AccessKey parse(String key) {
+        String[] parts = key.split("/");
+        if (parts.length != 5) {
+            return null;
+        }
+        return new AccessKey(parts[0], parts[1] + "/" + parts[2] + "/" + parts[3], parts[4]);
+    }
+
+    String asKey() {
+        return project + "/" + datePath + "/" + filename;
+    }
+}
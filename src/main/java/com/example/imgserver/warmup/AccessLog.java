@@ -0,0 +1,246 @@
+package com.example.imgserver.warmup;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회된 이미지 키의 샘플링 접근 로그 (append-only).
+ * <p>
+ * 미리보기/다운로드 요청 중 {@code sample-rate} 비율만 큐에 넣고, 백그라운드 스레드가 파일 끝에 한 줄씩 붙인다.
+ * 큐가 가득 차면 버리므로 요청 처리에는 영향이 없다. 재시작 후 {@link WarmupRunner} 가 이 로그로 자주 쓰인 이미지를 고른다.
+ * <p>
+ * 한 줄 형식은 {@code project/yyyy/MM/dd/filename} (1회) 또는 {@code project/yyyy/MM/dd/filename<TAB>횟수} 이다.
+ * 파일이 {@code max-size} 를 넘으면(기동 직후 포함) 기록 스레드가 집계한 상위 {@code compact-keep} 개만
+ * 후자 형식으로 다시 쓰므로, 실행 중에도 파일 크기는 대략 {@code max-size} 이내로 유지된다.
+ * 압축할 때마다 이전 압축에서 넘어온 횟수는 절반으로 줄이고 그 뒤 새로 기록된 조회만 그대로 세므로,
+ * 예전에 많이 조회된 이미지가 최근 작업 집합을 계속 앞서지 않는다.
+ * 워밍업용 조회({@link #topKeys})는 앞쪽 {@code max-size} 만 읽어 기동 시간에 상한을 둔다.
+ * <pre>
+ *   image:
+ *     warmup:
+ *       access-log:
+ *         enabled: true
+ *         path: ${image.dir}/.access-log
+ *         sample-rate: 0.05
+ *         max-size: 16MB
+ *         compact-keep: 10000
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AccessLog {
+
+    private static final int QUEUE_CAPACITY = 4096;
+
+    private final boolean enabled;
+    private final Path path;
+    private final double sampleRate;
+    private final long maxBytes;
+    private final int compactKeep;
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private volatile boolean running;
+    private volatile boolean suspended;
+    private Thread writer;
+
+    public AccessLog(
+            @Value("${image.warmup.access-log.enabled:true}") boolean enabled,
+            @Value("${image.warmup.access-log.path:${image.dir}/.access-log}") String path,
+            @Value("${image.warmup.access-log.sample-rate:0.05}") double sampleRate,
+            @Value("${image.warmup.access-log.max-size:16MB}") DataSize maxSize,
+            @Value("${image.warmup.access-log.compact-keep:10000}") int compactKeep) {
+        this.enabled = enabled;
+        this.path = Paths.get(path);
+        this.sampleRate = sampleRate;
+        this.maxBytes = maxSize.toBytes();
+        this.compactKeep = compactKeep;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "image-access-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 조회 한 건을 샘플링해 기록한다.
+     */
+    public void record(String project, String datePath, String filename) {
+        if (!running || suspended || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        queue.offer(project + "/" + datePath + "/" + filename);
+    }
+
+    /**
+     * 워밍업 중 자체 요청이 기록되지 않도록 잠시 멈춘다.
+     */
+    public void suspend() {
+        suspended = true;
+    }
+
+    public void resume() {
+        suspended = false;
+    }
+
+    /**
+     * 기록 횟수 기준 상위 n 개 키.
+     */
+    public List<AccessKey> topKeys(int n) {
+        return readCounts(maxBytes, false).entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(n)
+                .map(entry -> AccessKey.parse(entry.getKey()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 키별 횟수 집계. 대략 {@code byteLimit} 만큼 읽으면 멈춘다.
+     *
+     * @param decay 이전 압축에서 넘어온 횟수를 절반으로 줄일지 여부
+     */
+    private Map<String, Long> readCounts(long byteLimit, boolean decay) {
+        Map<String, Long> counts = new HashMap<>();
+        if (!Files.exists(path)) {
+            return counts;
+        }
+        long read = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while (read < byteLimit && (line = reader.readLine()) != null) {
+                read += line.length() + 1;
+                int tab = line.indexOf('\t');
+                if (tab < 0) {
+                    counts.merge(line, 1L, Long::sum);
+                    continue;
+                }
+                try {
+                    long count = Long.parseLong(line.substring(tab + 1));
+                    if (decay) {
+                        count /= 2;
+                    }
+                    if (count > 0) {
+                        counts.merge(line.substring(0, tab), count, Long::sum);
+                    }
+                } catch (NumberFormatException e) {
+                    // 기록 도중 잘린 줄은 무시
+                }
+            }
+        } catch (IOException e) {
+            log.warn("접근 로그 읽기 실패: {}", path, e);
+        }
+        return counts;
+    }
+
+    /**
+     * 파일이 {@code max-size} 를 넘으면 이전 집계를 절반으로 감쇠해 상위 {@code compact-keep} 개만 다시 쓴다.
+     */
+    private void compactIfNeeded() {
+        try {
+            if (!Files.exists(path) || Files.size(path) <= maxBytes) {
+                return;
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".compact");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> entry : readCounts(Long.MAX_VALUE, true).entrySet().stream()
+                        .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                        .limit(compactKeep)
+                        .toList()) {
+                    out.write(entry.getKey() + "\t" + entry.getValue());
+                    out.newLine();
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.info("접근 로그 압축 완료: {} ({} bytes)", path, Files.size(path));
+        } catch (IOException e) {
+            log.warn("접근 로그 압축 실패: {}", path, e);
+        }
+    }
+
+    private BufferedWriter openForAppend() throws IOException {
+        return Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void writeLoop() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            // 이전 실행에서 커진 로그도 요청 처리와 기동을 막지 않도록 여기서 정리
+            compactIfNeeded();
+            BufferedWriter out = openForAppend();
+            long written = Files.size(path);
+            try {
+                while (running || !queue.isEmpty()) {
+                    String key = queue.poll(1, TimeUnit.SECONDS);
+                    if (key == null) {
+                        continue;
+                    }
+                    do {
+                        out.write(key);
+                        out.newLine();
+                        written += key.length() + 1;
+                    } while ((key = queue.poll()) != null);
+                    out.flush();
+
+                    if (written > maxBytes) {
+                        out.close();
+                        compactIfNeeded();
+                        out = openForAppend();
+                        written = Files.size(path);
+                    }
+                }
+            } finally {
+                out.close();
+            }
+        } catch (IOException e) {
+            log.warn("접근 로그 기록 중단: {}", path, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.imgserver.warmup;
+
+import com.example.imgserver.service.ImageService;
+import com.example.imgserver.trace.SlowRequestRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 직후 워밍업.
+ * <p>
+ * {@link AccessLog} 에서 자주 조회된 상위 N 개 이미지를 {@link ImageService} 로 읽어
+ * OS 페이지 캐시에 올리고(별도 애플리케이션 캐시는 없음), 이어서 같은 이미지로 미리보기/다운로드 API 를
+ * 로컬에서 반복 호출해 서빙 경로를 JIT 컴파일시킨다.
+ * <p>
+ * ApplicationRunner 는 Spring Boot 가 readiness 를 {@code ACCEPTING_TRAFFIC} 으로 바꾸기 전에 실행되므로,
+ * {@code /actuator/health/readiness} 는 워밍업이 끝난 뒤에야 UP 을 보고한다. 서버 포트는 워밍업 중에도
+ * 열려 있으므로 로드 밸런서/오케스트레이터의 readiness 확인은 TCP 나 일반 API 가 아니라 이 경로를 써야 한다.
+ * 워밍업 요청은 접근 로그에 남기지 않고, 느린 요청 기록({@link SlowRequestRecorder})도 끝난 뒤 비운다.
+ * <pre>
+ *   image:
+ *     warmup:
+ *       enabled: true
+ *       top-n: 100
+ *       requests: 2000
+ *       max-duration: 30s
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private final AccessLog accessLog;
+    private final ImageService imageService;
+    private final Environment environment;
+    private final SlowRequestRecorder slowRequestRecorder;
+    private final ObjectProvider<ServerProperties> serverProperties;
+
+    @Value("${image.warmup.top-n:100}")
+    private int topN;
+
+    @Value("${image.warmup.requests:2000}")
+    private int requests;
+
+    @Value("${image.warmup.max-duration:30s}")
+    private Duration maxDuration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        List<AccessKey> keys = accessLog.topKeys(topN);
+        if (keys.isEmpty()) {
+            log.info("워밍업 대상 없음 (접근 로그 비어 있음)");
+            return;
+        }
+
+        accessLog.suspend();
+        try {
+            List<AccessKey> loaded = preload(keys, deadline);
+            exerciseEndpoints(loaded, deadline);
+        } catch (RuntimeException e) {
+            // 워밍업 실패로 기동이 막히면 안 된다
+            log.warn("워밍업 중단: {}", e.getMessage(), e);
+        } finally {
+            accessLog.resume();
+            // JIT 전의 워밍업 요청이 가장 느린 요청 목록을 채우지 않도록
+            slowRequestRecorder.clear();
+        }
+    }
+
+    private List<AccessKey> preload(List<AccessKey> keys, long deadline) {
+        List<AccessKey> loaded = new ArrayList<>(keys.size());
+        long bytes = 0;
+        for (AccessKey key : keys) {
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+            try {
+                Resource resource = imageService.loadImage(key.project(), key.datePath(), key.filename());
+                try (InputStream in = resource.getInputStream()) {
+                    bytes += in.transferTo(OutputStream.nullOutputStream());
+                }
+                loaded.add(key);
+            } catch (RuntimeException | IOException e) {
+                log.debug("워밍업 대상 건너뜀: {} ({})", key.asKey(), e.getMessage());
+            }
+        }
+        log.info("워밍업 프리로드 완료: {}/{}개, {} bytes", loaded.size(), keys.size(), bytes);
+        return loaded;
+    }
+
+    private void exerciseEndpoints(List<AccessKey> keys, long deadline) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (keys.isEmpty() || port == null) {
+            log.info("워밍업 API 호출 건너뜀");
+            return;
+        }
+        if (usesTls()) {
+            // 로컬 호출은 인증서의 호스트명과 맞지 않으므로 프리로드만 한다
+            log.info("TLS 가 설정되어 워밍업 API 호출 건너뜀");
+            return;
+        }
+
+        int sent = 0;
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build()) {
+            for (; sent < requests && System.nanoTime() < deadline; sent++) {
+                AccessKey key = keys.get(sent % keys.size());
+                String endpoint = sent % 2 == 0 ? "preview" : "download";
+                URI uri = URI.create("http://localhost:" + port + "/api/v1/images/" + endpoint + "/" + key.asKey());
+                client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+            }
+        } catch (IOException e) {
+            log.warn("워밍업 API 호출 실패: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("워밍업 API 호출 완료: {}회", sent);
+    }
+
+    /**
+     * {@code server.ssl.enabled} 를 명시하지 않고 {@code bundle} 이나 {@code key-store} 만 준 경우도 포함한다.
+     */
+    private boolean usesTls() {
+        ServerProperties properties = serverProperties.getIfAvailable();
+        return properties != null && Ssl.isEnabled(properties.getSsl());
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.imgserver.api;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.imgserver.domain.dto.ImageUploadResponse;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 썸네일 50장짜리 갤러리 페이지 로딩 시간 비교 (HTTP/1.1 vs HTTP/2).
+ * <p>
+ * HTTP/1.1 은 브라우저처럼 호스트당 연결 6개로 제한하고, HTTP/2(h2c) 는 한 연결에서 다중화한다.
+ * 루프백은 왕복 지연이 거의 0 이라 연결 수 제한의 비용이 드러나지 않으므로, 미리보기 요청마다
+ * 서버에서 {@code benchmark.rtt-ms} 만큼 지연시켜 네트워크 왕복 시간을 흉내 낸다.
+ * (연결 수립 비용, 대역폭은 반영하지 않는다)
+ * <p>
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"image.dir=${java.io.tmpdir}/img-server-benchmark",
+		"image.url-prefix=http://localhost/images",
+		"image.warmup.enabled=false",
+		"benchmark.rtt-ms=40"
+	})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GalleryLatencyBenchmark {
+
+	private static final int THUMBNAILS = 50;
+	private static final int HTTP1_CONNECTIONS_PER_HOST = 6;
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 20;
+
+	/**
+	 * 미리보기 요청에 고정 지연을 넣어 왕복 시간을 흉내 내는 필터
+	 */
+	@TestConfiguration
+	static class SimulatedRttConfig {
+
+		@Bean
+		Filter simulatedRttFilter(@Value("${benchmark.rtt-ms}") long rttMs) {
+			return new OncePerRequestFilter() {
+				@Override
+				protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+					FilterChain chain) throws ServletException, IOException {
+					if (request.getRequestURI().startsWith("/api/v1/images/preview/")) {
+						try {
+							Thread.sleep(rttMs);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+					chain.doFilter(request, response);
+				}
+			};
+		}
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Value("${benchmark.rtt-ms}")
+	private long rttMs;
+
+	@Autowired
+	private RestClient.Builder restClientBuilder;
+
+	private final List<URI> previewUris = new ArrayList<>();
+
+	@BeforeAll
+	void uploadThumbnails() {
+		RestClient client = restClientBuilder.baseUrl("http://localhost:" + port).build();
+		byte[] thumbnail = new byte[8 * 1024];
+		Arrays.fill(thumbnail, (byte) 0x5A);
+
+		for (int i = 0; i < THUMBNAILS; i++) {
+			String name = "thumb-" + i + ".jpg";
+			MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+			body.add("project", "benchmark");
+			body.add("file", new ByteArrayResource(thumbnail) {
+				@Override
+				public String getFilename() {
+					return name;
+				}
+			});
+			ImageUploadResponse response = client.post()
+				.uri("/api/v1/images")
+				.contentType(MediaType.MULTIPART_FORM_DATA)
+				.body(body)
+				.retrieve()
+				.body(ImageUploadResponse.class);
+
+			// url-prefix 뒤의 {project}/{yyyy}/{MM}/{dd}/{file} 을 미리보기 경로로 변환
+			String relative = response.getUrl().substring("http://localhost/images/".length());
+			previewUris.add(URI.create("http://localhost:" + port + "/api/v1/images/preview/" + relative));
+		}
+	}
+
+	@Test
+	@DisplayName("갤러리 페이지 로딩 시간: HTTP/1.1(6 연결) vs HTTP/2")
+	void compareGalleryLatency() throws Exception {
+		double http1 = measure(HttpClient.Version.HTTP_1_1, HTTP1_CONNECTIONS_PER_HOST);
+		double http2 = measure(HttpClient.Version.HTTP_2, THUMBNAILS);
+
+		System.out.printf("갤러리(%d장, RTT %dms) 평균 로딩 시간: HTTP/1.1=%.1fms, HTTP/2=%.1fms%n",
+			THUMBNAILS, rttMs, http1, http2);
+		assertThat(http1).isPositive();
+		assertThat(http2).isPositive();
+	}
+
+	/**
+	 * 페이지 하나(썸네일 전체)를 모두 받을 때까지의 평균 시간(ms).
+	 */
+	private double measure(HttpClient.Version version, int maxInFlight) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(HTTP1_CONNECTIONS_PER_HOST);
+		try (HttpClient client = HttpClient.newBuilder().version(version).executor(executor).build()) {
+			// 워밍업 중 h2c 업그레이드가 끝나므로, 측정 구간에서는 모든 응답이 요청한 버전이어야 한다
+			for (int i = 0; i < WARMUP_ROUNDS; i++) {
+				loadPage(client, maxInFlight, null);
+			}
+			long total = 0;
+			for (int i = 0; i < MEASURED_ROUNDS; i++) {
+				long start = System.nanoTime();
+				loadPage(client, maxInFlight, version);
+				total += System.nanoTime() - start;
+			}
+			return total / (double) MEASURED_ROUNDS / 1_000_000;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void loadPage(HttpClient client, int maxInFlight, HttpClient.Version expectedVersion) {
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		List<CompletableFuture<HttpResponse<byte[]>>> responses = new ArrayList<>(previewUris.size());
+		for (URI uri : previewUris) {
+			inFlight.acquireUninterruptibly();
+			responses.add(client.sendAsync(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray())
+				.whenComplete((response, error) -> inFlight.release()));
+		}
+		for (CompletableFuture<HttpResponse<byte[]>> future : responses) {
+			HttpResponse<byte[]> response = future.join();
+			assertThat(response.statusCode()).isEqualTo(200);
+			if (expectedVersion != null) {
+				assertThat(response.version()).isEqualTo(expectedVersion);
+			}
+		}
+	}
+}
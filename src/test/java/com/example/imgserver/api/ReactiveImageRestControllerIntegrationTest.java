@@ -0,0 +1,120 @@
+package com.example.imgserver.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+import com.example.imgserver.domain.dto.ImageUploadResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.main.web-application-type=reactive",
+		"image.dir=${java.io.tmpdir}/img-server-reactive-test",
+		"image.url-prefix=http://localhost/images"
+	})
+@AutoConfigureWebTestClient
+class ReactiveImageRestControllerIntegrationTest {
+
+	private static final String TEST_PROJECT = "test-project";
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	@DisplayName("리액티브 스택에서 업로드 후 미리보기 스트리밍")
+	void testUploadAndPreview() {
+		byte[] content = new byte[200 * 1024];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+
+		MultipartBodyBuilder builder = new MultipartBodyBuilder();
+		builder.part("file", new ByteArrayResource(content))
+			.filename("test-image.png")
+			.contentType(MediaType.IMAGE_PNG);
+
+		ImageUploadResponse uploaded = webTestClient.post()
+			.uri(uri -> uri.path("/api/v1/images").queryParam("project", TEST_PROJECT).build())
+			.contentType(MediaType.MULTIPART_FORM_DATA)
+			.body(BodyInserters.fromMultipartData(builder.build()))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(ImageUploadResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(uploaded).isNotNull();
+		String relative = uploaded.getUrl().substring("http://localhost/images/".length());
+
+		byte[] body = webTestClient.get()
+			.uri("/api/v1/images/preview/" + relative)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(MediaType.IMAGE_PNG)
+			.expectBody(byte[].class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(body).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("리액티브 스택에서도 project 를 form-data 필드로 보낼 수 있다")
+	void testUploadWithProjectFormField() {
+		MultipartBodyBuilder builder = new MultipartBodyBuilder();
+		builder.part("project", TEST_PROJECT);
+		builder.part("file", new ByteArrayResource(new byte[1024]))
+			.filename("form-field.png")
+			.contentType(MediaType.IMAGE_PNG);
+
+		ImageUploadResponse uploaded = webTestClient.post()
+			.uri("/api/v1/images")
+			.contentType(MediaType.MULTIPART_FORM_DATA)
+			.body(BodyInserters.fromMultipartData(builder.build()))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(ImageUploadResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(uploaded).isNotNull();
+		assertThat(uploaded.getUrl()).startsWith("http://localhost/images/" + TEST_PROJECT + "/");
+	}
+
+	@Test
+	@DisplayName("리액티브 스택에서 20MB 초과 업로드는 디스크에 다 쓰기 전에 413")
+	void testUploadOversizedFile() {
+		MultipartBodyBuilder builder = new MultipartBodyBuilder();
+		builder.part("file", new ByteArrayResource(new byte[21 * 1024 * 1024]))
+			.filename("large.png")
+			.contentType(MediaType.IMAGE_PNG);
+
+		webTestClient.post()
+			.uri(uri -> uri.path("/api/v1/images").queryParam("project", TEST_PROJECT).build())
+			.contentType(MediaType.MULTIPART_FORM_DATA)
+			.body(BodyInserters.fromMultipartData(builder.build()))
+			.exchange()
+			.expectStatus().isEqualTo(413);
+	}
+
+	@Test
+	@DisplayName("리액티브 스택에서 없는 이미지 조회 시 404")
+	void testPreviewNotFound() {
+		webTestClient.get()
+			.uri("/api/v1/images/preview/" + TEST_PROJECT + "/2000/01/01/missing.png")
+			.exchange()
+			.expectStatus().isNotFound()
+			.expectBody()
+			.jsonPath("$.error").isEqualTo("Image Not Found");
+	}
+}
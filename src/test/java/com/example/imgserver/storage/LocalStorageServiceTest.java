@@ -0,0 +1,165 @@
+package com.example.imgserver.storage;
+
+import com.example.imgserver.exception.ImageCorruptedException;
+import com.example.imgserver.exception.ImageUploadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LocalStorageServiceTest {
+
+	private static final String PROJECT = "test-project";
+	private static final String DATE_PATH = "2026/02/19";
+
+	@TempDir
+	Path uploadDir;
+
+	private LocalStorageService storageService;
+
+	@AfterEach
+	void tearDown() {
+		if (storageService != null) {
+			storageService.shutdown();
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(DurabilityMode.class)
+	@DisplayName("모든 내구성 모드에서 저장 후 체크섬 검증과 함께 조회된다")
+	void testStoreAndLoad(DurabilityMode mode) throws Exception {
+		storageService = createStorageService(mode);
+		byte[] content = "image-bytes".getBytes();
+
+		storageService.store(PROJECT, DATE_PATH, "a.png", new MockMultipartFile("file", "a.png", "image/png", content));
+
+		Resource resource = storageService.load(PROJECT, DATE_PATH, "a.png");
+		assertThat(resource.getContentAsByteArray()).isEqualTo(content);
+		try (Stream<Path> files = Files.list(dir())) {
+			assertThat(files.map(p -> p.getFileName().toString())).containsExactly("a.png");
+		}
+	}
+
+	@Test
+	@DisplayName("저장된 파일이 변조되면 본문 전송 중 검증 실패")
+	void testCorruptedFileDetected() throws Exception {
+		storageService = createStorageService(DurabilityMode.ATOMIC);
+		storageService.store(PROJECT, DATE_PATH, "b.png",
+			new MockMultipartFile("file", "b.png", "image/png", "original".getBytes()));
+
+		assumeTrue(ChecksumAttribute.read(dir().resolve("b.png")) != null, "확장 속성 미지원 파일시스템");
+
+		// 확장 속성은 유지한 채 내용만 변조
+		Files.write(dir().resolve("b.png"), "tampered".getBytes(), StandardOpenOption.TRUNCATE_EXISTING);
+
+		Resource resource = storageService.load(PROJECT, DATE_PATH, "b.png");
+		assertThatThrownBy(resource::getContentAsByteArray)
+			.isInstanceOf(IOException.class)
+			.hasCauseInstanceOf(ImageCorruptedException.class);
+	}
+
+	@Test
+	@DisplayName("그룹 커밋 모드에서 동시 업로드가 모두 저장된다")
+	void testGroupCommitConcurrentUploads() throws Exception {
+		storageService = createStorageService(DurabilityMode.GROUP_COMMIT);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				String name = "img-" + i + ".png";
+				byte[] content = ("content-" + i).getBytes();
+				futures.add(executor.submit(() -> storageService.store(PROJECT, DATE_PATH, name,
+					new MockMultipartFile("file", name, "image/png", content))));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		for (int i = 0; i < 32; i++) {
+			Resource resource = storageService.load(PROJECT, DATE_PATH, "img-" + i + ".png");
+			assertThat(resource.getContentAsByteArray()).isEqualTo(("content-" + i).getBytes());
+		}
+	}
+
+	@Test
+	@DisplayName("그룹 커밋 대기 시간이 지나면 업로드는 실패하고 최종 경로에 파일이 남지 않는다")
+	void testGroupCommitTimeoutLeavesNoOrphan() throws Exception {
+		storageService = newStorageService(DurabilityMode.GROUP_COMMIT);
+		// 워커가 배치를 모으는 동안 업로드 스레드가 먼저 포기하도록
+		ReflectionTestUtils.setField(storageService, "groupCommitWindowMs", 500L);
+		ReflectionTestUtils.setField(storageService, "groupCommitTimeoutMs", 50L);
+		storageService.init();
+
+		assertThatThrownBy(() -> storageService.store(PROJECT, DATE_PATH, "late.png",
+			new MockMultipartFile("file", "late.png", "image/png", "late".getBytes())))
+			.isInstanceOf(ImageUploadException.class);
+
+		Thread.sleep(1000);
+		try (Stream<Path> files = Files.list(dir())) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	@DisplayName("기동 시 오래된 임시 파일만 삭제된다")
+	void testDeleteStaleTempFiles() throws Exception {
+		Files.createDirectories(dir());
+		Path stale = Files.writeString(dir().resolve(".stale.png.tmp"), "partial");
+		Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+		Path fresh = Files.writeString(dir().resolve(".fresh.png.tmp"), "partial");
+
+		// init() 의 백그라운드 정리와 겹치지 않도록 직접 호출만 한다
+		LocalStorageService service = newStorageService(DurabilityMode.ATOMIC);
+
+		assertThat(service.deleteStaleTempFiles()).isEqualTo(1);
+		assertThat(stale).doesNotExist();
+		assertThat(fresh).exists();
+	}
+
+	private LocalStorageService createStorageService(DurabilityMode mode) {
+		LocalStorageService service = newStorageService(mode);
+		service.init();
+		return service;
+	}
+
+	private LocalStorageService newStorageService(DurabilityMode mode) {
+		LocalStorageService service = new LocalStorageService();
+		ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+		ReflectionTestUtils.setField(service, "durabilityMode", mode);
+		ReflectionTestUtils.setField(service, "verifyOnRead", true);
+		ReflectionTestUtils.setField(service, "groupCommitWindowMs", 0L);
+		ReflectionTestUtils.setField(service, "groupCommitTimeoutMs", 10_000L);
+		ReflectionTestUtils.setField(service, "staleTempAge", Duration.ofHours(1));
+		return service;
+	}
+
+	private Path dir() {
+		return uploadDir.resolve(PROJECT).resolve(DATE_PATH);
+	}
+}
@@ -0,0 +1,84 @@
+package com.example.imgserver.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowRequestRecorderTest {
+
+	private static final Duration WINDOW = Duration.ofMinutes(10);
+
+	@Test
+	@DisplayName("가장 느린 요청 N개만 느린 순으로 보관된다")
+	void testKeepsSlowest() {
+		SlowRequestRecorder recorder = new SlowRequestRecorder(3, 0, WINDOW, () -> 0L);
+
+		for (long ms : new long[] {5, 50, 1, 30, 40, 2}) {
+			recorder.record(trace("req-" + ms, ms));
+		}
+
+		List<RequestTrace> snapshot = recorder.snapshot();
+		assertThat(snapshot).extracting(RequestTrace::getRequestId)
+			.containsExactly("req-50", "req-40", "req-30");
+	}
+
+	@Test
+	@DisplayName("임계값보다 빠른 요청은 보관하지 않는다")
+	void testThreshold() {
+		SlowRequestRecorder recorder = new SlowRequestRecorder(10, 20, WINDOW, () -> 0L);
+
+		recorder.record(trace("fast", 5));
+		recorder.record(trace("slow", 25));
+
+		assertThat(recorder.snapshot()).extracting(RequestTrace::getRequestId).containsExactly("slow");
+	}
+
+	@Test
+	@DisplayName("창이 지나면 예전 이상치 대신 최근의 느린 요청이 보관된다")
+	void testOldOutlierExpires() {
+		AtomicLong now = new AtomicLong();
+		SlowRequestRecorder recorder = new SlowRequestRecorder(1, 0, WINDOW, now::get);
+
+		recorder.record(trace("startup-outlier", 500));
+		now.addAndGet(Duration.ofMinutes(5).toMillis());
+		recorder.record(trace("recent", 30));
+		assertThat(recorder.snapshot()).extracting(RequestTrace::getRequestId).containsExactly("startup-outlier");
+
+		now.addAndGet(Duration.ofMinutes(6).toMillis());
+		recorder.record(trace("recent-2", 20));
+		assertThat(recorder.snapshot()).extracting(RequestTrace::getRequestId).containsExactly("recent");
+	}
+
+	@Test
+	@DisplayName("핸들러 이전은 요청 읽기, 이후는 응답 전송 구간으로 기록된다")
+	void testRequestReadAndResponseWriteStages() throws Exception {
+		RequestTrace trace = new RequestTrace("req", "POST", "/api/v1/images");
+		Thread.sleep(5);
+		try (TraceSpan span = new TraceSpan(trace, TraceStage.HANDLER, null)) {
+			Thread.sleep(5);
+		}
+		Thread.sleep(5);
+		trace.finish(200);
+
+		long requestRead = trace.stageNanos(TraceStage.REQUEST_READ);
+		long handler = trace.stageNanos(TraceStage.HANDLER);
+		long responseWrite = trace.stageNanos(TraceStage.RESPONSE_WRITE);
+		assertThat(requestRead).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+		assertThat(responseWrite).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+		assertThat(requestRead + handler + responseWrite).isEqualTo(trace.getTotalNanos());
+	}
+
+	private RequestTrace trace(String requestId, long totalMs) {
+		RequestTrace trace = new RequestTrace(requestId, "GET", "/api/v1/images/preview/x");
+		trace.finish(200);
+		ReflectionTestUtils.setField(trace, "totalNanos", TimeUnit.MILLISECONDS.toNanos(totalMs));
+		return trace;
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.imgserver.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	@DisplayName("기록 횟수 순으로 상위 키를 반환한다")
+	void testTopKeys() {
+		Path logFile = dir.resolve(".access-log");
+		AccessLog accessLog = new AccessLog(true, logFile.toString(), 1.0, DataSize.ofMegabytes(16), 100);
+		accessLog.start();
+
+		for (int i = 0; i < 3; i++) {
+			accessLog.record("shop", "2026/02/19", "a.png");
+		}
+		accessLog.record("shop", "2026/02/19", "b.png");
+		for (int i = 0; i < 2; i++) {
+			accessLog.record("admin", "2026/02/20", "c.jpg");
+		}
+		accessLog.stop();
+
+		List<AccessKey> top = accessLog.topKeys(2);
+		assertThat(top).containsExactly(
+			new AccessKey("shop", "2026/02/19", "a.png"),
+			new AccessKey("admin", "2026/02/20", "c.jpg"));
+	}
+
+	@Test
+	@DisplayName("실행 중 최대 크기를 넘으면 다시 압축되어 크기가 유지된다")
+	void testCompactionWhileRunning() throws Exception {
+		Path logFile = dir.resolve(".access-log");
+		AccessLog accessLog = new AccessLog(true, logFile.toString(), 1.0, DataSize.ofBytes(256), 100);
+		accessLog.start();
+
+		for (int i = 0; i < 500; i++) {
+			accessLog.record("shop", "2026/02/19", "hot.png");
+			if (i % 50 == 0) {
+				Thread.sleep(20);
+			}
+		}
+		accessLog.stop();
+
+		assertThat(Files.size(logFile)).isLessThan(1024);
+		assertThat(accessLog.topKeys(1)).containsExactly(new AccessKey("shop", "2026/02/19", "hot.png"));
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘은 기존 로그는 기록 스레드가 집계 형식으로 압축한다")
+	void testCompaction() throws Exception {
+		Path logFile = dir.resolve(".access-log");
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			content.append("shop/2026/02/19/hot.png\n");
+		}
+		content.append("shop/2026/02/19/cold.png\n");
+		Files.writeString(logFile, content);
+
+		AccessLog accessLog = new AccessLog(true, logFile.toString(), 1.0, DataSize.ofBytes(64), 1);
+		accessLog.start();
+		accessLog.stop();
+
+		assertThat(Files.readAllLines(logFile)).containsExactly("shop/2026/02/19/hot.png\t100");
+		assertThat(accessLog.topKeys(10)).containsExactly(new AccessKey("shop", "2026/02/19", "hot.png"));
+	}
+
+	@Test
+	@DisplayName("압축 시 횟수가 감쇠되어 최근에 많이 조회된 이미지가 예전 이미지를 앞선다")
+	void testCompactionDecay() throws Exception {
+		Path logFile = dir.resolve(".access-log");
+		StringBuilder content = new StringBuilder("shop/2026/01/01/old.png\t100\n");
+		for (int i = 0; i < 60; i++) {
+			content.append("shop/2026/02/19/new.png\n");
+		}
+		Files.writeString(logFile, content);
+
+		AccessLog accessLog = new AccessLog(true, logFile.toString(), 1.0, DataSize.ofBytes(64), 10);
+		accessLog.start();
+		accessLog.stop();
+
+		assertThat(accessLog.topKeys(2)).containsExactly(
+			new AccessKey("shop", "2026/02/19", "new.png"),
+			new AccessKey("shop", "2026/01/01", "old.png"));
+	}
+}